@@ -7,6 +7,8 @@ import android.graphics.Color;
 import android.graphics.Typeface;
 import android.os.Build;
 import android.os.Handler;
+import android.os.PowerManager;
+import android.provider.Settings;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 import android.support.constraint.ConstraintLayout;
@@ -19,6 +21,8 @@ import android.util.Log;
 import android.util.TypedValue;
 import android.view.View;
 import android.view.animation.Animation;
+import android.view.animation.AnimationUtils;
+import android.view.animation.Interpolator;
 import android.view.animation.RotateAnimation;
 import android.widget.ImageView;
 import android.widget.TextView;
@@ -37,8 +41,22 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
     public static final float DEFAULT_OPTION_TEXT_SIZE = 16.0f;
     public static final int DEFAULT_OPTION_TEXT_COLOR = Color.BLACK;
     public static final int DEFAULT_BUTTON_BACKGROUND_RES_ID = R.drawable.button_fab_standard_enabled;
+    public static final int DEFAULT_TRANSITION_DURATION = 25;
+    public static final int DEFAULT_TRANSITION_STAGGER = 25;
+
+    /**
+     * Skip the transitions when the animator duration scale is 0 or battery saver is on.
+     */
+    public static final int REDUCED_MOTION_AUTO = 0;
+    /**
+     * Always jump straight to the final expanded or collapsed state.
+     */
+    public static final int REDUCED_MOTION_ALWAYS = 1;
+    /**
+     * Always run the transitions.
+     */
+    public static final int REDUCED_MOTION_NEVER = 2;
 
-    private static final long TRANSITION_DURATION = 25L;
     private static final String LOG_TAG = FloatingMenu.class.getSimpleName();
     private ImageView floating;
     private ConstraintLayout mainLayout;
@@ -55,6 +73,10 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
     private int mOptionTextColor;
     private int mButtonBackground;
     private Typeface mOptionTypeface;
+    private long mTransitionDuration;
+    private long mTransitionStagger;
+    private Interpolator mTransitionInterpolator;
+    private int mReducedMotion;
 
 
     /**
@@ -133,6 +155,13 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
         mOptionTextSize = a.getDimensionPixelSize(R.styleable.FloatingMenu_fm_option_textSize, 0);
         mOptionTextColor = a.getColor(R.styleable.FloatingMenu_fm_option_textColor, DEFAULT_OPTION_TEXT_COLOR);
         mButtonBackground = a.getResourceId(R.styleable.FloatingMenu_rm_button_background, DEFAULT_BUTTON_BACKGROUND_RES_ID);
+        mTransitionDuration = Math.max(0, a.getInt(R.styleable.FloatingMenu_fm_transitionDuration, DEFAULT_TRANSITION_DURATION));
+        mTransitionStagger = Math.max(0, a.getInt(R.styleable.FloatingMenu_fm_transitionStagger, DEFAULT_TRANSITION_STAGGER));
+        int interpolatorResId = a.getResourceId(R.styleable.FloatingMenu_fm_transitionInterpolator, 0);
+        if (interpolatorResId != 0) {
+            mTransitionInterpolator = AnimationUtils.loadInterpolator(context, interpolatorResId);
+        }
+        mReducedMotion = a.getInt(R.styleable.FloatingMenu_fm_reducedMotion, REDUCED_MOTION_AUTO);
 
         a.recycle();
 
@@ -161,6 +190,8 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
 
     private void animate(float degree) {
 
+        final boolean reducedMotion = isReducedMotion();
+
         // Create rotation animation
 
         RotateAnimation ra = new RotateAnimation(-currentDegree, -degree,
@@ -168,7 +199,10 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
                 0.5f
         );
         // How long the animation will take place
-        ra.setDuration(TRANSITION_DURATION);
+        ra.setDuration(reducedMotion ? 0L : mTransitionDuration);
+        if (mTransitionInterpolator != null) {
+            ra.setInterpolator(mTransitionInterpolator);
+        }
 
         // Set the animation after the end of the reservation status
         ra.setFillAfter(true);
@@ -176,7 +210,16 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
         // Start the animation
         floating.startAnimation(ra);
         visible = !visible;
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+        if (views == null || views.isEmpty()) {
+            return;
+        }
+        if (reducedMotion) {
+            if (visible) {
+                showExpanded();
+            } else {
+                showCollapsed();
+            }
+        } else if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
             if (visible) {
                 expandOption(0);
             } else {
@@ -197,8 +240,7 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
         Log.d(LOG_TAG, "position collapsed is " + position);
         if (position == 0) {
 
-            ChangeBounds cb = new ChangeBounds();
-            cb.setDuration(TRANSITION_DURATION);
+            ChangeBounds cb = newChangeBounds();
             cb.addListener(new Transition.TransitionListener() {
                 @Override
                 public void onTransitionStart(Transition transition) {
@@ -236,8 +278,7 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
             collapseSecondLevel(cs, position);
 
             cs.applyTo(mainLayout);
-            ChangeBounds cb = new ChangeBounds();
-            cb.setDuration(TRANSITION_DURATION);
+            ChangeBounds cb = newChangeBounds();
             cb.addListener(new Transition.TransitionListener() {
                 @Override
                 public void onTransitionStart(Transition transition) {
@@ -278,9 +319,7 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
     void expandOption(final int position) {
         if (position == 0) {
             getFirstLevelConstraints().applyTo(mainLayout);
-            ChangeBounds cb = new ChangeBounds();
-            cb.setDuration(TRANSITION_DURATION);
-//        cb.setInterpolator(new OvershootInterpolator());
+            ChangeBounds cb = newChangeBounds();
             cb.addListener(new Transition.TransitionListener() {
                 @Override
                 public void onTransitionStart(Transition transition) {
@@ -295,8 +334,7 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
                 public void onTransitionEnd(Transition transition) {
                     views.get(position).setAlpha(1.0f);
                     expandOption(position + 1);
-                    ChangeBounds cb1 = new ChangeBounds();
-                    cb1.setDuration(TRANSITION_DURATION);
+                    ChangeBounds cb1 = newChangeBounds();
                     getSecondLevelConstraints().applyTo(mainLayout);
                     TransitionManager.beginDelayedTransition(mainLayout, cb1);
 
@@ -327,10 +365,72 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
                     views.get(position).setAlpha(1.0f);
                     if (position + 1 < views.size()) expandOption(position + 1);
                 }
-            }, TRANSITION_DURATION);
+            }, mTransitionStagger);
+        }
+    }
+
+    /**
+     * Jumps straight to the final expanded state with a single layout pass.
+     */
+    private void showExpanded() {
+        ConstraintSet cs = getFirstLevelConstraints();
+        for (int i = 1; i < views.size(); i++) {
+            getLevelConstraints(views.get(i), views.get(i - 1), cs, ConstraintSet.END);
+        }
+        cs.applyTo(mainLayout);
+        for (View v : views) {
+            v.setAlpha(1.0f);
+        }
+    }
+
+    /**
+     * Jumps straight to the final collapsed state with a single layout pass.
+     */
+    private void showCollapsed() {
+        ConstraintSet cs = new ConstraintSet();
+        cs.clone(mainLayout);
+        for (int i = views.size() - 1; i > 0; i--) {
+            collapseSecondLevel(cs, i);
+        }
+        cs.applyTo(mainLayout);
+        for (View v : views) {
+            v.setAlpha(0.0f);
         }
     }
 
+    private ChangeBounds newChangeBounds() {
+        ChangeBounds cb = new ChangeBounds();
+        cb.setDuration(mTransitionDuration);
+        if (mTransitionInterpolator != null) {
+            cb.setInterpolator(mTransitionInterpolator);
+        }
+        return cb;
+    }
+
+    /**
+     * Checks whether the transitions should be skipped, either because it has been forced through
+     * {@link #setReducedMotion(int)} or because the system animator duration scale is 0 or the
+     * device is in battery saver mode.
+     *
+     * @return true if the menu should jump straight to its final state
+     */
+    private boolean isReducedMotion() {
+        if (mReducedMotion == REDUCED_MOTION_ALWAYS) return true;
+        if (mReducedMotion == REDUCED_MOTION_NEVER) return false;
+
+        if (mTransitionDuration == 0 && mTransitionStagger == 0) return true;
+
+        float animatorScale = Settings.Global.getFloat(context.getContentResolver(),
+                Settings.Global.ANIMATOR_DURATION_SCALE, 1.0f);
+        if (animatorScale == 0.0f) return true;
+
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP) {
+            PowerManager pm = (PowerManager) context.getSystemService(Context.POWER_SERVICE);
+            return pm != null && pm.isPowerSaveMode();
+        }
+        return false;
+    }
+
 
     private void collapseSecondLevel(@NonNull ConstraintSet cs, int position) {
         if (position > 0 && position < views.size() - 1) {
@@ -437,6 +537,43 @@ public class FloatingMenu extends ConstraintLayout implements View.OnClickListen
         return mOptionBgColor;
     }
 
+    /**
+     * Sets the duration of each step of the expand and collapse transitions.
+     *
+     * @param duration the duration in milliseconds
+     */
+    public void setTransitionDuration(long duration) {
+        this.mTransitionDuration = Math.max(0L, duration);
+    }
+
+    /**
+     * Sets the delay between showing consecutive menu options while expanding.
+     *
+     * @param stagger the delay in milliseconds
+     */
+    public void setTransitionStagger(long stagger) {
+        this.mTransitionStagger = Math.max(0L, stagger);
+    }
+
+    /**
+     * Sets the interpolator used by the button rotation and the option transitions.
+     *
+     * @param interpolator the interpolator, or null to use the platform default
+     */
+    public void setTransitionInterpolator(@Nullable Interpolator interpolator) {
+        this.mTransitionInterpolator = interpolator;
+    }
+
+    /**
+     * Sets the reduced-motion mode.
+     *
+     * @param reducedMotion one of {@link #REDUCED_MOTION_AUTO}, {@link #REDUCED_MOTION_ALWAYS}
+     *                      or {@link #REDUCED_MOTION_NEVER}
+     */
+    public void setReducedMotion(int reducedMotion) {
+        this.mReducedMotion = reducedMotion;
+    }
+
     public void setOptionTypeface(@NonNull Typeface optionTypeface) {
         this.mOptionTypeface = optionTypeface;
         if (views!=null && !views.isEmpty()) {